@@ -30,6 +30,8 @@ extra["springAiVersion"] = "1.1.2"
 dependencies {
   implementation("org.springframework.boot:spring-boot-starter-data-jpa")
   implementation("org.springframework.boot:spring-boot-starter-web")
+  implementation("org.springframework.boot:spring-boot-starter-cache")
+  implementation("com.github.ben-manes.caffeine:caffeine")
   implementation("org.springframework.ai:spring-ai-starter-model-google-genai")
   // Source: https://mvnrepository.com/artifact/com.google.apis/google-api-services-youtube
   implementation("com.google.apis:google-api-services-youtube:v3-rev222-1.25.0")
@@ -50,3 +52,24 @@ dependencyManagement {
 tasks.withType<Test> {
   useJUnitPlatform()
 }
+
+tasks.test {
+  useJUnitPlatform {
+    excludeTags("benchmark")
+  }
+}
+
+// 플랫폼 스레드 vs 가상 스레드 동시성 벤치마크 (./gradlew benchmark)
+tasks.register<Test>("benchmark") {
+  description = "Runs the platform vs virtual thread concurrency benchmark."
+  group = "verification"
+  testClassesDirs = sourceSets.test.get().output.classesDirs
+  classpath = sourceSets.test.get().runtimeClasspath
+  useJUnitPlatform {
+    includeTags("benchmark")
+  }
+  maxHeapSize = "1g"
+  testLogging {
+    showStandardStreams = true
+  }
+}
@@ -0,0 +1,12 @@
+package com.backend.domain.recipe.dto;
+
+import java.util.List;
+
+/**
+ * AI가 이미지에서 인식한 식재료 목록 DTO
+ *
+ * @param ingredients 인식된 식재료 이름 목록
+ */
+public record IngredientListResponse(
+    List<String> ingredients) {
+}
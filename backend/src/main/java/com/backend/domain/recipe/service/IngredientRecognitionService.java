@@ -0,0 +1,133 @@
+package com.backend.domain.recipe.service;
+
+import com.backend.domain.recipe.dto.IngredientListResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.content.Media;
+import org.springframework.ai.google.genai.GoogleGenAiChatOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 식재료 인식 서비스 (1단계)
+ * 경량 Gemini Vision 모델로 이미지에서 식재료 목록만 추출
+ */
+@Slf4j
+@Service
+public class IngredientRecognitionService {
+
+  private final ChatClient chatClient;
+  private final GoogleGenAiChatOptions chatOptions;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  // System Prompt: 식재료 인식 전용 (레시피 생성 X)
+  private static final String SYSTEM_PROMPT = """
+      당신은 식재료 인식 전문가입니다.
+      사용자가 업로드한 이미지에서 요리에 사용할 수 있는 식재료만 찾아주세요.
+
+      응답 규칙:
+      1. 식재료 이름은 한국어 기본형 명사로만 작성하세요. (예: "방울토마토" → "토마토", "계란 2개" → "계란")
+      2. 수량, 상태, 브랜드, 포장 정보는 제외하세요.
+      3. 확실하게 식별되는 재료만 포함하세요.
+      4. 반드시 JSON 형식으로만 응답해주세요.
+
+      응답 JSON 형식:
+      {
+        "ingredients": ["재료1", "재료2"]
+      }
+      """;
+
+  private static final String USER_PROMPT = "이 이미지에 있는 식재료 목록을 알려주세요.";
+
+  public IngredientRecognitionService(
+      ChatModel chatModel,
+      @Value("${recipe.ai.ingredient.model:gemini-2.0-flash-lite}") String model) {
+    this.chatClient = ChatClient.create(chatModel);
+    // 같은 재료는 항상 같은 목록이 나오도록 temperature 0 고정 (2단계 캐시 적중률 향상)
+    this.chatOptions = GoogleGenAiChatOptions.builder()
+        .model(model)
+        .temperature(0.0)
+        .build();
+  }
+
+  /**
+   * 이미지에서 식재료 인식
+   *
+   * @param image 식재료 이미지
+   * @return 정규화(공백 제거, 소문자, 중복 제거) 후 정렬된 식재료 목록
+   * @throws RecipeGenerationException 응답을 파싱하지 못한 경우
+   */
+  public List<String> recognizeIngredients(MultipartFile image) {
+    try {
+      // 이미지 MIME 타입 확인
+      String contentType = image.getContentType();
+      if (contentType == null || !contentType.startsWith("image/")) {
+        throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다.");
+      }
+
+      MimeType mimeType = MimeTypeUtils.parseMimeType(contentType);
+      Media media = new Media(mimeType, new ByteArrayResource(image.getBytes()));
+
+      String response = chatClient.prompt()
+          .options(chatOptions)
+          .system(SYSTEM_PROMPT)
+          .user(u -> u.text(USER_PROMPT).media(media))
+          .call()
+          .content();
+
+      log.info("Gemini 식재료 인식 응답: {}", response);
+
+      return canonicalize(parseResponse(response));
+
+    } catch (IOException e) {
+      log.error("이미지 처리 중 오류 발생", e);
+      throw new RuntimeException("이미지 처리 중 오류가 발생했습니다.", e);
+    }
+  }
+
+  /**
+   * 식재료 목록 정규화
+   * 서로 다른 사진이라도 같은 재료면 같은 목록(= 같은 캐시 키)이 되도록 정렬
+   */
+  private List<String> canonicalize(List<String> ingredients) {
+    return ingredients.stream()
+        .filter(Objects::nonNull)
+        .map(ingredient -> ingredient.strip().toLowerCase(Locale.ROOT))
+        .filter(ingredient -> !ingredient.isEmpty())
+        .distinct()
+        .sorted()
+        .toList();
+  }
+
+  /**
+   * Gemini 응답을 식재료 목록으로 파싱
+   */
+  private List<String> parseResponse(String response) {
+    try {
+      // JSON 응답에서 코드 블록 마커 제거
+      String jsonResponse = response
+          .replace("```json", "")
+          .replace("```", "")
+          .trim();
+
+      IngredientListResponse ingredientList = objectMapper.readValue(jsonResponse, IngredientListResponse.class);
+      return ingredientList.ingredients() != null ? ingredientList.ingredients() : List.of();
+    } catch (Exception e) {
+      log.error("식재료 JSON 파싱 오류: {}", response, e);
+      // 파싱 실패는 사진 문제가 아니라 응답 처리 오류로 전달
+      throw new RecipeGenerationException(
+          "죄송합니다. 응답 처리 중 오류가 발생했습니다. 원본 응답: " + response, e);
+    }
+  }
+}
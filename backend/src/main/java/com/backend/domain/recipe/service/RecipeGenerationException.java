@@ -0,0 +1,16 @@
+package com.backend.domain.recipe.service;
+
+/**
+ * 레시피 추천 파이프라인 실패 예외 (1 · 2단계 응답 파싱 실패, 빈 레시피)
+ * 2단계 캐시 로더에서 예외로 던져 실패 결과가 캐시되지 않도록 함
+ */
+class RecipeGenerationException extends RuntimeException {
+
+  RecipeGenerationException(String message) {
+    super(message);
+  }
+
+  RecipeGenerationException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,152 @@
+package com.backend.domain.recipe.service;
+
+import com.backend.domain.recipe.dto.RecipeListResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.google.genai.GoogleGenAiChatOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 레시피 생성 서비스 (2단계)
+ * 식재료 목록을 기반으로 텍스트 전용 Gemini 호출로 레시피 생성
+ * 같은 재료 세트 + 추가요청 조합은 캐시된 결과를 재사용
+ */
+@Slf4j
+@Service
+public class RecipeGenerationService {
+
+  private final ChatClient chatClient;
+  private final GoogleGenAiChatOptions chatOptions;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  // System Prompt: 셰프 페르소나 설정
+  private static final String SYSTEM_PROMPT = """
+      당신은 20년 경력의 전문 셰프입니다.
+      사용자가 가진 식재료 목록을 보고 만들 수 있는 요리 레시피를 추천해주세요.
+
+      응답 규칙:
+      1. 한국어로 응답해주세요.
+      2. 주어진 재료를 기반으로 현실적인 레시피를 추천하세요.
+      3. 가정에서 쉽게 구할 수 있는 기본 조미료(소금, 설탕, 간장, 식용유 등)는 이미 있다고 가정합니다.
+      4. 레시피는 초보자도 따라할 수 있도록 상세하게 설명해주세요.
+      5. 반드시 JSON 형식으로만 응답해주세요.
+
+      응답 JSON 형식:
+      {
+        "recipes": [
+          {
+            "recipeName": "요리 이름",
+            "description": "요리 설명",
+            "ingredients": ["재료1", "재료2"],
+            "instructions": ["1단계", "2단계"],
+            "estimatedTime": 30,
+            "difficulty": "쉬움|보통|어려움",
+            "tips": "요리 팁"
+          }
+        ],
+        "message": "추가 메시지"
+      }
+      """;
+
+  public RecipeGenerationService(
+      ChatModel chatModel,
+      @Value("${recipe.ai.generation.model:gemini-2.0-flash}") String model) {
+    this.chatClient = ChatClient.create(chatModel);
+    this.chatOptions = GoogleGenAiChatOptions.builder()
+        .model(model)
+        .build();
+  }
+
+  /**
+   * 식재료 목록 기반 레시피 생성
+   * 같은 키로 동시에 들어온 요청은 한 번만 생성 (sync)
+   * 파싱 실패 · 빈 레시피는 예외로 처리되어 캐시되지 않음
+   *
+   * @param ingredients       정렬된 식재료 목록 (캐시 키)
+   * @param additionalRequest 추가 요청사항 (캐시 키)
+   * @return 추천 레시피 목록
+   * @throws RecipeGenerationException 레시피를 생성하지 못한 경우
+   */
+  @Cacheable(cacheNames = "recipes", sync = true)
+  public RecipeListResponse generateRecipes(List<String> ingredients, String additionalRequest) {
+    log.info("레시피 생성 요청 (캐시 미적중) - 재료: {}, 추가요청: {}", ingredients, additionalRequest);
+
+    String userPrompt = buildUserPrompt(ingredients, additionalRequest);
+
+    String response = chatClient.prompt()
+        .options(chatOptions)
+        .system(SYSTEM_PROMPT)
+        .user(userPrompt)
+        .call()
+        .content();
+
+    log.info("Gemini 응답: {}", response);
+
+    // JSON 파싱 및 반환
+    return parseResponse(response);
+  }
+
+  /**
+   * 생성 실패한 캐시 항목 제거
+   * async 캐시는 실패한 항목을 완료 콜백에서 비동기로 제거하므로,
+   * 직후 요청이 실패 결과를 재사용하지 않도록 호출자가 반환 전에 직접 제거
+   *
+   * @param ingredients       정렬된 식재료 목록 (캐시 키)
+   * @param additionalRequest 추가 요청사항 (캐시 키)
+   */
+  @CacheEvict(cacheNames = "recipes")
+  public void evictRecipes(List<String> ingredients, String additionalRequest) {
+    log.info("레시피 생성 실패 캐시 제거 - 재료: {}, 추가요청: {}", ingredients, additionalRequest);
+  }
+
+  /**
+   * 사용자 프롬프트 구성
+   */
+  private String buildUserPrompt(List<String> ingredients, String additionalRequest) {
+    StringBuilder prompt = new StringBuilder();
+    prompt.append("보유한 식재료: ").append(String.join(", ", ingredients));
+    prompt.append("\n\n이 식재료들로 만들 수 있는 요리 레시피 2~3개를 추천해주세요.");
+
+    if (!additionalRequest.isEmpty()) {
+      prompt.append("\n\n추가 요청사항: ").append(additionalRequest);
+    }
+
+    return prompt.toString();
+  }
+
+  /**
+   * Gemini 응답을 RecipeListResponse로 파싱
+   */
+  private RecipeListResponse parseResponse(String response) {
+    RecipeListResponse recipeList;
+    try {
+      // JSON 응답에서 코드 블록 마커 제거
+      String jsonResponse = response
+          .replace("```json", "")
+          .replace("```", "")
+          .trim();
+
+      recipeList = objectMapper.readValue(jsonResponse, RecipeListResponse.class);
+    } catch (Exception e) {
+      log.error("JSON 파싱 오류: {}", response, e);
+      throw new RecipeGenerationException(
+          "죄송합니다. 응답 처리 중 오류가 발생했습니다. 원본 응답: " + response, e);
+    }
+
+    // 빈 레시피 응답은 AI 메시지를 그대로 전달
+    if (recipeList.recipes() == null || recipeList.recipes().isEmpty()) {
+      throw new RecipeGenerationException(recipeList.message() != null
+          ? recipeList.message()
+          : "추천할 수 있는 레시피를 찾지 못했습니다.");
+    }
+
+    return recipeList;
+  }
+}
@@ -5,10 +5,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -23,13 +26,34 @@ public class YoutubeService {
   @Value("${youtube.api.key:}")
   private String youtubeApiKey;
 
-  private static final String YOUTUBE_SEARCH_URL = "https://www.googleapis.com/youtube/v3/search";
-  private static final String YOUTUBE_VIDEOS_URL = "https://www.googleapis.com/youtube/v3/videos";
+  @Value("${youtube.api.base-url:https://www.googleapis.com/youtube/v3}")
+  private String youtubeApiBaseUrl;
+
+  private static final String YOUTUBE_SEARCH_PATH = "/search";
+  private static final String YOUTUBE_VIDEOS_PATH = "/videos";
   private static final int MAX_RESULTS = 10; // 검색 결과 최대 개수 (조회수 정렬 후 상위 3개 선택)
 
-  private final RestTemplate restTemplate = new RestTemplate();
+  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(3);
+  private static final Duration READ_TIMEOUT = Duration.ofSeconds(5);
+
+  private final RestTemplate restTemplate = createRestTemplate();
   private final ObjectMapper objectMapper = new ObjectMapper();
 
+  /**
+   * 타임아웃이 설정된 RestTemplate 생성
+   * 기본 RestTemplate은 타임아웃이 없어, 가상 스레드 모드에서 응답 없는 호출이 제한 없이 쌓일 수 있음
+   */
+  private static RestTemplate createRestTemplate() {
+    HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(CONNECT_TIMEOUT)
+        .build();
+
+    JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+    requestFactory.setReadTimeout(READ_TIMEOUT);
+
+    return new RestTemplate(requestFactory);
+  }
+
   /**
    * 레시피 이름으로 유튜브 영상 검색 (조회수 순 상위 1~3개)
    *
@@ -71,7 +95,7 @@ public class YoutubeService {
    * YouTube Search API로 영상 ID 목록 검색
    */
   private List<String> searchVideoIds(String query) {
-    String url = UriComponentsBuilder.fromHttpUrl(YOUTUBE_SEARCH_URL)
+    String url = UriComponentsBuilder.fromHttpUrl(youtubeApiBaseUrl + YOUTUBE_SEARCH_PATH)
         .queryParam("part", "snippet")
         .queryParam("q", query)
         .queryParam("type", "video")
@@ -110,7 +134,7 @@ public class YoutubeService {
   private List<YoutubeVideoResponse> getVideoDetails(List<String> videoIds) {
     String idsParam = String.join(",", videoIds);
 
-    String url = UriComponentsBuilder.fromHttpUrl(YOUTUBE_VIDEOS_URL)
+    String url = UriComponentsBuilder.fromHttpUrl(youtubeApiBaseUrl + YOUTUBE_VIDEOS_PATH)
         .queryParam("part", "snippet,statistics")
         .queryParam("id", idsParam)
         .queryParam("key", youtubeApiKey)
@@ -0,0 +1,32 @@
+package com.backend.global.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * 캐시 설정
+ * {@code @Cacheable(sync = true)} 로더(Gemini 호출)가 캐시 내부 락을 잡은 채 블로킹되지 않도록
+ * Caffeine을 async 모드로 전환하고, 로더는 가상 스레드에서 실행
+ */
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+  @Bean
+  public CacheManagerCustomizer<CaffeineCacheManager> caffeineCacheManagerCustomizer(CacheProperties cacheProperties) {
+    return cacheManager -> {
+      String spec = cacheProperties.getCaffeine().getSpec();
+      Caffeine<Object, Object> caffeine = StringUtils.hasText(spec) ? Caffeine.from(spec) : Caffeine.newBuilder();
+
+      // 기본 executor(ForkJoinPool.commonPool)는 블로킹 호출 시 CPU 코어 수만큼만 동시 생성 가능
+      cacheManager.setCaffeine(caffeine.executor(task -> Thread.ofVirtual().name("recipe-cache-loader").start(task)));
+      cacheManager.setAsyncCacheMode(true);
+    };
+  }
+}
@@ -0,0 +1,564 @@
+package com.backend.domain.recipe.controller;
+
+import com.backend.BackendApplication;
+import com.backend.domain.recipe.dto.RecipeResponse;
+import com.backend.domain.recipe.service.RecipeService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.genai.Client;
+import com.google.genai.types.HttpOptions;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 레시피 추천 API 동시성 벤치마크 (플랫폼 스레드 vs 가상 스레드)
+ * Gemini · YouTube를 느린 로컬 HTTP 스텁 서버로 대체하고, 실제 GoogleGenAiChatModel과 RestTemplate을 거쳐
+ * 최대 동시 처리 수, 처리량, 메모리, Tomcat 스레드 수, Hikari 대기 수, 가상 스레드 pinning 을 측정
+ * 실제 Caffeine 캐시와 파일 H2 DB를 그대로 사용하고, 요청마다 추가요청을 달리해 2단계 생성까지 항상 실행
+ * 모드별로 애플리케이션을 띄웠다가 종료한 뒤 다음 모드를 실행 (이전 모드의 스레드 · 힙이 섞이지 않도록)
+ * (./gradlew benchmark 로 실행, 일반 test 태스크에서는 제외)
+ */
+@Tag("benchmark")
+class RecipeConcurrencyBenchmarkTests {
+
+  private static final int TOMCAT_MAX_THREADS = 200; // server.tomcat.threads.max 기본값
+  private static final int CONCURRENT_REQUESTS = 1000;
+  private static final int DB_REQUEST_INTERVAL = 5; // 5건 중 1건은 DB 조회 API (GET /api/recipes)
+  private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(500); // 업스트림 호출당 응답 지연
+  private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20);
+
+  private static final String INGREDIENT_MODEL = "benchmark-ingredient";
+  private static final String GENERATION_MODEL = "benchmark-generation";
+  private static final String TOMCAT_THREAD_PREFIX = "http-nio-";
+  private static final List<String> SERVER_VIRTUAL_THREAD_PREFIXES = List.of("tomcat-handler-", "recipe-cache-loader");
+  private static final String APPLICATION_PACKAGE = "com.backend.";
+  private static final String BOUNDARY = "benchmark-boundary";
+
+  @TempDir
+  private Path databaseDir;
+
+  @Test
+  void virtualThreadsLiftTomcatThreadCapWithoutPinning() throws Exception {
+    BenchmarkResult platform;
+    BenchmarkResult virtual;
+
+    try (SlowUpstreamServer upstream = SlowUpstreamServer.start(UPSTREAM_LATENCY)) {
+      platform = runBenchmark("platform", false, upstream);
+      virtual = runBenchmark("virtual", true, upstream);
+    }
+
+    printComparison(List.of(platform, virtual));
+
+    assertThat(platform.succeeded()).isEqualTo(CONCURRENT_REQUESTS);
+    assertThat(virtual.succeeded()).isEqualTo(CONCURRENT_REQUESTS);
+    assertThat(platform.maxInFlight()).isLessThanOrEqualTo(TOMCAT_MAX_THREADS);
+    assertThat(virtual.maxInFlight()).isGreaterThan(TOMCAT_MAX_THREADS);
+    assertThat(virtual.pinnedEvents())
+        .as("가상 스레드 pinning 발생 위치: %s", virtual.pinnedLocations())
+        .isZero();
+    // 동시 처리 수가 200을 넘어도 DB 커넥션 풀(20개)에서 대기한 요청이 없어야 함
+    assertThat(virtual.peakThreadsAwaitingConnection()).isZero();
+  }
+
+  /**
+   * 한 가지 모드로 애플리케이션을 띄우고 동시 요청 실행 및 측정
+   */
+  private BenchmarkResult runBenchmark(String mode, boolean virtualThreads, SlowUpstreamServer upstream)
+      throws Exception {
+    upstream.resetCounters();
+
+    try (ConfigurableApplicationContext context = startApplication(mode, virtualThreads, upstream.baseUrl())) {
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      seedRecipes(context.getBean(RecipeService.class));
+
+      HikariPoolMXBean pool = context.getBean(HikariDataSource.class).getHikariPoolMXBean();
+      ResourceSampler sampler = new ResourceSampler(pool);
+      PinnedThreadRecorder pinnedThreads = new PinnedThreadRecorder();
+
+      pinnedThreads.start();
+      sampler.start();
+      long startNanos = System.nanoTime();
+
+      int succeeded = sendConcurrentRequests(port);
+
+      long elapsedMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+      sampler.stop();
+      pinnedThreads.stop();
+
+      return new BenchmarkResult(
+          mode,
+          succeeded,
+          upstream.maxInFlight(),
+          CONCURRENT_REQUESTS * 1000.0 / elapsedMillis,
+          elapsedMillis,
+          sampler.peakHeapUsedBytes() / (1024 * 1024),
+          sampler.peakTomcatThreads(),
+          sampler.peakActiveConnections(),
+          sampler.peakThreadsAwaitingConnection(),
+          pinnedThreads.count(),
+          pinnedThreads.otherCount(),
+          pinnedThreads.locations());
+    }
+  }
+
+  /**
+   * 업스트림 URL을 스텁 서버로 바꿔 애플리케이션 실행
+   * (application.yaml보다 우선하도록 커맨드라인 인자로 전달)
+   */
+  private ConfigurableApplicationContext startApplication(String mode, boolean virtualThreads, String upstreamBaseUrl) {
+    return new SpringApplicationBuilder(BackendApplication.class)
+        // Gemini 기본 URL을 스텁 서버로 지정한 Client 사용 (GoogleGenAiChatModel은 그대로 자동 구성)
+        .initializers(context -> ((GenericApplicationContext) context).registerBean(
+            "benchmarkGoogleGenAiClient",
+            Client.class,
+            () -> Client.builder()
+                .apiKey("benchmark")
+                .httpOptions(HttpOptions.builder().baseUrl(upstreamBaseUrl + "/").build())
+                .build(),
+            definition -> definition.setPrimary(true)))
+        .run(
+            "--server.port=0",
+            "--spring.threads.virtual.enabled=" + virtualThreads,
+            "--spring.datasource.url=jdbc:h2:" + databaseDir.resolve(mode) + ";MODE=MySQL",
+            "--spring.ai.google.genai.api-key=benchmark",
+            "--recipe.ai.ingredient.model=" + INGREDIENT_MODEL,
+            "--recipe.ai.generation.model=" + GENERATION_MODEL,
+            "--youtube.api.key=benchmark",
+            "--youtube.api.base-url=" + upstreamBaseUrl + "/youtube/v3",
+            "--spring.main.banner-mode=off",
+            "--logging.level.com.backend=WARN");
+  }
+
+  /**
+   * DB 조회 API가 빈 목록만 반환하지 않도록 레시피 저장
+   */
+  private void seedRecipes(RecipeService recipeService) {
+    for (int i = 1; i <= 3; i++) {
+      recipeService.saveRecipe(new RecipeResponse(
+          "벤치마크 레시피 " + i, "설명", List.of("계란"), List.of("볶는다."), 10, "쉬움", "팁"));
+    }
+  }
+
+  /**
+   * 레시피 추천, 레시피 + 유튜브 추천, DB 조회 요청을 섞어 동시에 전송
+   *
+   * @return 200 응답 수
+   */
+  private int sendConcurrentRequests(int port) throws InterruptedException {
+    String baseUrl = "http://localhost:" + port + "/api/recipes";
+    List<Future<Integer>> responses = new ArrayList<>();
+
+    try (HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+        // 클라이언트 측은 모드와 무관하게 가상 스레드로 요청을 동시에 발생
+        ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+        HttpRequest request;
+        if (i % DB_REQUEST_INTERVAL == 0) {
+          request = HttpRequest.newBuilder(URI.create(baseUrl)).timeout(Duration.ofSeconds(60)).GET().build();
+        } else {
+          request = recommendRequest(baseUrl + (i % 2 == 0 ? "/recommend" : "/recommend-with-youtube"), i);
+        }
+        responses.add(clients.submit(
+            () -> httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()));
+      }
+    }
+
+    int succeeded = 0;
+    for (Future<Integer> response : responses) {
+      try {
+        if (response.get() == 200) {
+          succeeded++;
+        }
+      } catch (ExecutionException e) {
+        // 타임아웃, 연결 거부 등은 실패로 집계
+      }
+    }
+    return succeeded;
+  }
+
+  /**
+   * 이미지 한 장과 추가요청을 담은 multipart 추천 요청
+   * 재료 세트는 같으므로 추가요청을 요청마다 달리해 레시피 캐시를 항상 미적중시킴
+   */
+  private static HttpRequest recommendRequest(String url, int requestNumber) {
+    byte[] body = ("--" + BOUNDARY + "\r\n"
+        + "Content-Disposition: form-data; name=\"image\"; filename=\"ingredients.jpg\"\r\n"
+        + "Content-Type: image/jpeg\r\n\r\n"
+        + "stub-image-bytes\r\n"
+        + "--" + BOUNDARY + "\r\n"
+        + "Content-Disposition: form-data; name=\"additionalRequest\"\r\n"
+        + "Content-Type: text/plain; charset=UTF-8\r\n\r\n"
+        + "벤치마크 요청 " + requestNumber + "\r\n"
+        + "--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8);
+
+    return HttpRequest.newBuilder(URI.create(url))
+        .timeout(Duration.ofSeconds(60))
+        .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+        .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+        .build();
+  }
+
+  private static void printComparison(List<BenchmarkResult> results) {
+    System.out.println();
+    System.out.printf("%-9s %9s %11s %12s %9s %10s %13s %9s %13s %7s %12s%n",
+        "mode", "succeeded", "maxInFlight", "throughput/s", "elapsedMs", "heapMB", "tomcatThreads",
+        "dbActive", "dbAwaiting", "pinned", "pinnedOther");
+    for (BenchmarkResult result : results) {
+      System.out.printf("%-9s %9d %11d %12.1f %9d %10d %13d %9d %13d %7d %12d%n",
+          result.mode(), result.succeeded(), result.maxInFlight(), result.throughput(), result.elapsedMillis(),
+          result.peakHeapUsedMb(), result.peakTomcatThreads(), result.peakActiveConnections(),
+          result.peakThreadsAwaitingConnection(), result.pinnedEvents(), result.otherPinnedEvents());
+      result.pinnedLocations().forEach(location -> System.out.printf("  [%s] pinned at %s%n", result.mode(), location));
+    }
+    System.out.println();
+  }
+
+  /**
+   * Gemini · YouTube API를 흉내 내는 느린 로컬 HTTP 서버
+   * 요청마다 지연 후 고정 응답을 반환하고, 동시에 처리 중인 업스트림 호출 수의 최대값을 기록
+   * (각 요청은 업스트림을 순차 호출하므로 = 서버에서 동시에 처리 중인 추천 요청 수)
+   * JDK HttpServer는 synchronized 블록 안에서 소켓을 읽으므로, pinning 측정에 섞이지 않도록 플랫폼 스레드로 처리
+   */
+  private static final class SlowUpstreamServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Duration latency;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private final String ingredientResponse;
+    private final String recipeResponse;
+    private final String youtubeSearchResponse;
+    private final String youtubeVideosResponse;
+
+    private SlowUpstreamServer(Duration latency) throws IOException {
+      this.latency = latency;
+      this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4096);
+
+      ObjectMapper objectMapper = new ObjectMapper();
+      this.ingredientResponse = geminiResponse(objectMapper, "{\"ingredients\": [\"계란\", \"대파\"]}");
+      this.recipeResponse = geminiResponse(objectMapper, """
+          {"recipes": [{"recipeName": "계란 볶음밥", "description": "간단한 한그릇 요리",
+            "ingredients": ["계란 2개", "대파 1대"], "instructions": ["계란을 볶는다.", "밥을 넣고 볶는다."],
+            "estimatedTime": 10, "difficulty": "쉬움", "tips": "차가운 밥을 사용하세요."}],
+           "message": "맛있는 요리 되세요!"}
+          """);
+      this.youtubeSearchResponse = """
+          {"items": [{"id": {"videoId": "video-1"}}, {"id": {"videoId": "video-2"}}]}
+          """;
+      this.youtubeVideosResponse = """
+          {"items": [{"id": "video-1",
+            "snippet": {"title": "계란 볶음밥", "description": "설명", "channelTitle": "채널",
+              "thumbnails": {"high": {"url": "https://example.com/1.jpg"}}},
+            "statistics": {"viewCount": "100"}}]}
+          """;
+
+      server.createContext("/", this::handle);
+      server.setExecutor(executor);
+    }
+
+    static SlowUpstreamServer start(Duration latency) throws IOException {
+      SlowUpstreamServer upstream = new SlowUpstreamServer(latency);
+      upstream.server.start();
+      return upstream;
+    }
+
+    String baseUrl() {
+      return "http://" + server.getAddress().getAddress().getHostAddress() + ":" + server.getAddress().getPort();
+    }
+
+    void resetCounters() {
+      inFlight.set(0);
+      maxInFlight.set(0);
+    }
+
+    int maxInFlight() {
+      return maxInFlight.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      try {
+        exchange.getRequestBody().readAllBytes();
+        Thread.sleep(latency);
+
+        byte[] body = responseFor(exchange.getRequestURI().getPath()).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+          out.write(body);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        exchange.sendResponseHeaders(503, -1);
+      } finally {
+        inFlight.decrementAndGet();
+        exchange.close();
+      }
+    }
+
+    /**
+     * 경로로 업스트림 구분 (Gemini 모델명 / YouTube API)
+     */
+    private String responseFor(String path) {
+      if (path.endsWith("/search")) {
+        return youtubeSearchResponse;
+      }
+      if (path.endsWith("/videos")) {
+        return youtubeVideosResponse;
+      }
+      return path.contains(INGREDIENT_MODEL) ? ingredientResponse : recipeResponse;
+    }
+
+    /**
+     * Gemini generateContent 응답 형식
+     */
+    private static String geminiResponse(ObjectMapper objectMapper, String text) {
+      try {
+        return objectMapper.writeValueAsString(Map.of(
+            "candidates", List.of(Map.of(
+                "content", Map.of("role", "model", "parts", List.of(Map.of("text", text))),
+                "finishReason", "STOP",
+                "index", 0)),
+            "usageMetadata", Map.of("promptTokenCount", 10, "candidatesTokenCount", 10, "totalTokenCount", 20),
+            "modelVersion", "benchmark"));
+      } catch (JsonProcessingException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    @Override
+    public void close() {
+      server.stop(0);
+      executor.close();
+    }
+  }
+
+  /**
+   * 벤치마크 실행 중 힙 사용량, Tomcat 플랫폼 스레드 수, Hikari 커넥션 사용량의 최대값을 주기적으로 기록
+   * (플랫폼 스레드마다 별도 스택 메모리를 예약하므로 스레드 수를 함께 측정)
+   */
+  private static final class ResourceSampler {
+
+    private static final long SAMPLE_INTERVAL_MILLIS = 20;
+
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final HikariPoolMXBean pool;
+
+    private final AtomicLong peakHeapUsedBytes = new AtomicLong();
+    private final AtomicInteger peakTomcatThreads = new AtomicInteger();
+    private final AtomicInteger peakActiveConnections = new AtomicInteger();
+    private final AtomicInteger peakThreadsAwaitingConnection = new AtomicInteger();
+    private volatile boolean running = true;
+    private long baselineHeapUsedBytes;
+    private Thread samplerThread;
+
+    ResourceSampler(HikariPoolMXBean pool) {
+      this.pool = pool;
+    }
+
+    void start() {
+      System.gc();
+      baselineHeapUsedBytes = memoryBean.getHeapMemoryUsage().getUsed();
+
+      samplerThread = Thread.ofPlatform().daemon().name("benchmark-resource-sampler").start(() -> {
+        while (running) {
+          sample();
+          try {
+            Thread.sleep(SAMPLE_INTERVAL_MILLIS);
+          } catch (InterruptedException e) {
+            return;
+          }
+        }
+      });
+    }
+
+    void stop() throws InterruptedException {
+      running = false;
+      samplerThread.join();
+    }
+
+    private void sample() {
+      peakHeapUsedBytes.accumulateAndGet(memoryBean.getHeapMemoryUsage().getUsed() - baselineHeapUsedBytes, Math::max);
+      peakTomcatThreads.accumulateAndGet(countTomcatThreads(), Math::max);
+      peakActiveConnections.accumulateAndGet(pool.getActiveConnections(), Math::max);
+      peakThreadsAwaitingConnection.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+    }
+
+    /**
+     * Tomcat 플랫폼 스레드 수 (워커 · poller · acceptor, 이름 접두사로 구분)
+     * 테스트 JVM의 부하 클라이언트 · 스텁 서버 스레드는 제외
+     */
+    private int countTomcatThreads() {
+      int count = 0;
+      for (ThreadInfo thread : threadBean.getThreadInfo(threadBean.getAllThreadIds(), 0)) {
+        if (thread != null && thread.getThreadName().startsWith(TOMCAT_THREAD_PREFIX)) {
+          count++;
+        }
+      }
+      return count;
+    }
+
+    long peakHeapUsedBytes() {
+      return peakHeapUsedBytes.get();
+    }
+
+    int peakTomcatThreads() {
+      return peakTomcatThreads.get();
+    }
+
+    int peakActiveConnections() {
+      return peakActiveConnections.get();
+    }
+
+    int peakThreadsAwaitingConnection() {
+      return peakThreadsAwaitingConnection.get();
+    }
+  }
+
+  /**
+   * JFR jdk.VirtualThreadPinned 이벤트로 가상 스레드 pinning 횟수와 발생 위치 기록
+   * JVM 전체 이벤트 중 서버 측(Tomcat 요청 · 캐시 로더 가상 스레드, 애플리케이션 프레임 포함) 이벤트만 집계하고
+   * 부하 클라이언트 등 테스트 쪽 이벤트는 따로 센다
+   */
+  private static final class PinnedThreadRecorder {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final RecordingStream recording = new RecordingStream();
+    private final AtomicInteger count = new AtomicInteger();
+    private final AtomicInteger otherCount = new AtomicInteger();
+    private final Set<String> locations = ConcurrentHashMap.newKeySet();
+
+    void start() {
+      recording.enable(PINNED_EVENT).withThreshold(PINNED_THRESHOLD).withStackTrace();
+      recording.onEvent(PINNED_EVENT, this::record);
+      recording.startAsync();
+    }
+
+    void stop() {
+      // 남은 이벤트까지 모두 처리한 뒤 종료
+      recording.stop();
+      recording.close();
+    }
+
+    private void record(RecordedEvent event) {
+      List<String> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames().stream()
+          .map(RecordedFrame::getMethod)
+          .map(method -> method.getType().getName() + "." + method.getName())
+          .toList();
+
+      if (!isServerSide(event, frames)) {
+        otherCount.incrementAndGet();
+        return;
+      }
+
+      count.incrementAndGet();
+      // JDK 내부 프레임을 건너뛰고 pinning을 일으킨 라이브러리 · 애플리케이션 프레임 기록
+      frames.stream()
+          .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk.") && !frame.startsWith("sun."))
+          .findFirst()
+          .ifPresent(locations::add);
+    }
+
+    /**
+     * 서버 측 가상 스레드 이름이거나, 스택에 애플리케이션 프레임이 있으면 서버 측 이벤트
+     */
+    private static boolean isServerSide(RecordedEvent event, List<String> frames) {
+      String threadName = event.getThread() != null ? event.getThread().getJavaName() : null;
+      if (threadName != null && SERVER_VIRTUAL_THREAD_PREFIXES.stream().anyMatch(threadName::startsWith)) {
+        return true;
+      }
+      return frames.stream().anyMatch(frame -> frame.startsWith(APPLICATION_PACKAGE));
+    }
+
+    int count() {
+      return count.get();
+    }
+
+    int otherCount() {
+      return otherCount.get();
+    }
+
+    List<String> locations() {
+      return List.copyOf(locations);
+    }
+  }
+
+  /**
+   * 벤치마크 결과
+   *
+   * @param mode                          실행 모드 (platform, virtual)
+   * @param succeeded                     200 응답 수
+   * @param maxInFlight                   서버에서 동시에 업스트림 응답을 기다린 최대 요청 수
+   * @param throughput                    초당 처리 요청 수
+   * @param elapsedMillis                 전체 소요 시간 (ms)
+   * @param peakHeapUsedMb                실행 전 대비 최대 힙 증가량 (MB)
+   * @param peakTomcatThreads             최대 Tomcat 플랫폼 스레드 수
+   * @param peakActiveConnections         최대 사용 중 DB 커넥션 수
+   * @param peakThreadsAwaitingConnection 최대 DB 커넥션 대기 스레드 수
+   * @param pinnedEvents                  서버 측 가상 스레드 pinning 이벤트 수
+   * @param otherPinnedEvents             테스트 쪽(부하 클라이언트 등) pinning 이벤트 수
+   * @param pinnedLocations               pinning 발생 위치
+   */
+  private record BenchmarkResult(
+      String mode,
+      int succeeded,
+      int maxInFlight,
+      double throughput,
+      long elapsedMillis,
+      long peakHeapUsedMb,
+      int peakTomcatThreads,
+      int peakActiveConnections,
+      int peakThreadsAwaitingConnection,
+      int pinnedEvents,
+      int otherPinnedEvents,
+      List<String> pinnedLocations) {
+  }
+}
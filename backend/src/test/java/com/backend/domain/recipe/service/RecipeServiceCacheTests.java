@@ -0,0 +1,251 @@
+package com.backend.domain.recipe.service;
+
+import com.backend.domain.recipe.dto.RecipeListResponse;
+import com.backend.domain.recipe.dto.RecipeRequest;
+import com.backend.domain.recipe.repository.RecipeRepository;
+import com.backend.global.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 2단계 파이프라인 캐시 동작 테스트
+ * 1단계 응답이 달라도 같은 재료 세트면 2단계(레시피 생성) 결과를 재사용하는지 확인
+ */
+@SpringBootTest(
+    classes = {RecipeService.class, IngredientRecognitionService.class, RecipeGenerationService.class, CacheConfig.class},
+    properties = "spring.cache.cache-names=recipes")
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+class RecipeServiceCacheTests {
+
+  private static final int CONCURRENT_CALLERS = 8;
+
+  private static final String RECIPES_JSON = """
+      {
+        "recipes": [
+          {
+            "recipeName": "토마토 달걀 볶음",
+            "description": "간단한 볶음 요리",
+            "ingredients": ["토마토 2개", "계란 3개", "대파 1대"],
+            "instructions": ["토마토를 썬다.", "계란과 함께 볶는다."],
+            "estimatedTime": 15,
+            "difficulty": "쉬움",
+            "tips": "토마토는 마지막에 넣으세요."
+          }
+        ],
+        "message": "맛있게 드세요!"
+      }
+      """;
+
+  @Autowired
+  private RecipeService recipeService;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @MockitoBean
+  private ChatModel chatModel;
+
+  @MockitoBean
+  private RecipeRepository recipeRepository;
+
+  @MockitoBean
+  private YoutubeService youtubeService;
+
+  @BeforeEach
+  void clearCache() {
+    cacheManager.getCache("recipes").clear();
+  }
+
+  @Test
+  void differentPhotosOfSameIngredientsReuseGeneratedRecipes() {
+    given(chatModel.call(any(Prompt.class))).willReturn(
+        // 1번 사진: 1단계 → 2단계
+        chatResponse("```json\n{\"ingredients\": [\"대파\", \"Tomato\", \"계란\"]}\n```"),
+        chatResponse(RECIPES_JSON),
+        // 2번 사진: 순서, 대소문자, 공백, 중복이 다른 1단계 응답
+        chatResponse("{\"ingredients\": [\" tomato \", \"계란\", \"대파\", \"계란\", \"TOMATO\"]}"));
+
+    RecipeListResponse first = recommend("fridge-1.jpg");
+    RecipeListResponse second = recommend("fridge-2.jpg");
+
+    assertThat(first.recipes()).hasSize(1);
+    assertThat(second).isEqualTo(first);
+
+    List<Prompt> generationPrompts = generationPrompts(3);
+    assertThat(generationPrompts).hasSize(1);
+    assertThat(generationPrompts.get(0).getUserMessage().getText()).contains("보유한 식재료: tomato, 계란, 대파");
+  }
+
+  @Test
+  void emptyRecipesAreNotCached() {
+    given(chatModel.call(any(Prompt.class))).willReturn(
+        chatResponse("{\"ingredients\": [\"계란\"]}"),
+        chatResponse("{\"recipes\": [], \"message\": \"재료가 부족합니다.\"}"),
+        chatResponse("{\"ingredients\": [\"계란\"]}"),
+        chatResponse(RECIPES_JSON));
+
+    RecipeListResponse first = recommend("egg-1.jpg");
+    RecipeListResponse second = recommend("egg-2.jpg");
+
+    assertThat(first.recipes()).isEmpty();
+    assertThat(first.message()).isEqualTo("재료가 부족합니다.");
+    assertThat(second.recipes()).hasSize(1);
+    assertThat(generationPrompts(4)).hasSize(2);
+  }
+
+  @Test
+  void unparsableRecipesAreNotCached() {
+    given(chatModel.call(any(Prompt.class))).willReturn(
+        chatResponse("{\"ingredients\": [\"계란\"]}"),
+        chatResponse("레시피를 생성할 수 없습니다."),
+        chatResponse("{\"ingredients\": [\"계란\"]}"),
+        chatResponse(RECIPES_JSON));
+
+    RecipeListResponse first = recommend("egg-1.jpg");
+    RecipeListResponse second = recommend("egg-2.jpg");
+
+    assertThat(first.recipes()).isEmpty();
+    assertThat(first.message()).contains("응답 처리 중 오류가 발생했습니다.");
+    assertThat(second.recipes()).hasSize(1);
+    assertThat(generationPrompts(4)).hasSize(2);
+  }
+
+  @Test
+  void concurrentRequestsForSameIngredientsShareOneGeneration() throws Exception {
+    CountDownLatch recognized = new CountDownLatch(CONCURRENT_CALLERS);
+    CountDownLatch release = new CountDownLatch(1);
+    stubBlockingGeneration(recognized, release, RECIPES_JSON);
+
+    List<RecipeListResponse> responses = recommendConcurrently(recognized, release);
+
+    assertThat(responses).allSatisfy(response -> assertThat(response.recipes()).hasSize(1));
+    assertThat(generationPrompts(CONCURRENT_CALLERS + 1)).hasSize(1);
+  }
+
+  @Test
+  void generationFailureReachesEveryWaitingCaller() throws Exception {
+    CountDownLatch recognized = new CountDownLatch(CONCURRENT_CALLERS);
+    CountDownLatch release = new CountDownLatch(1);
+    stubBlockingGeneration(recognized, release, "레시피를 생성할 수 없습니다.");
+
+    List<RecipeListResponse> responses = recommendConcurrently(recognized, release);
+
+    assertThat(responses).allSatisfy(response -> {
+      assertThat(response.recipes()).isEmpty();
+      assertThat(response.message()).contains("응답 처리 중 오류가 발생했습니다.");
+    });
+    assertThat(generationPrompts(CONCURRENT_CALLERS + 1)).hasSize(1);
+  }
+
+  @Test
+  void unparsableIngredientsAreReportedAsResponseError() {
+    given(chatModel.call(any(Prompt.class))).willReturn(chatResponse("식재료를 알 수 없습니다."));
+
+    RecipeListResponse response = recommend("fridge.jpg");
+
+    assertThat(response.recipes()).isEmpty();
+    assertThat(response.message()).contains("응답 처리 중 오류가 발생했습니다.");
+    assertThat(generationPrompts(1)).isEmpty();
+  }
+
+  @Test
+  void noRecognizedIngredientsAskForAnotherPhoto() {
+    given(chatModel.call(any(Prompt.class))).willReturn(chatResponse("{\"ingredients\": []}"));
+
+    RecipeListResponse response = recommend("empty.jpg");
+
+    assertThat(response.recipes()).isEmpty();
+    assertThat(response.message()).contains("다시 촬영해주세요");
+    assertThat(generationPrompts(1)).isEmpty();
+  }
+
+  /**
+   * 1단계는 즉시 응답하고, 2단계는 release 래치가 열릴 때까지 대기하도록 스텁
+   */
+  private void stubBlockingGeneration(CountDownLatch recognized, CountDownLatch release, String generationText) {
+    given(chatModel.call(any(Prompt.class))).willAnswer(invocation -> {
+      Prompt prompt = invocation.getArgument(0);
+      if (!prompt.getUserMessage().getMedia().isEmpty()) {
+        recognized.countDown();
+        return chatResponse("{\"ingredients\": [\"계란\", \"대파\"]}");
+      }
+      release.await(5, TimeUnit.SECONDS);
+      return chatResponse(generationText);
+    });
+  }
+
+  /**
+   * 같은 재료 사진을 동시에 요청하고, 모든 요청이 2단계 대기에 들어간 뒤 생성 완료
+   */
+  private List<RecipeListResponse> recommendConcurrently(CountDownLatch recognized, CountDownLatch release)
+      throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CALLERS);
+    try {
+      List<Future<RecipeListResponse>> futures = new ArrayList<>();
+      for (int i = 0; i < CONCURRENT_CALLERS; i++) {
+        String filename = "fridge-" + i + ".jpg";
+        futures.add(executor.submit(() -> recommend(filename)));
+      }
+
+      assertThat(recognized.await(5, TimeUnit.SECONDS)).isTrue();
+      Thread.sleep(200); // 1단계를 마친 요청이 모두 캐시 로더 대기에 들어갈 때까지
+      release.countDown();
+
+      List<RecipeListResponse> responses = new ArrayList<>();
+      for (Future<RecipeListResponse> future : futures) {
+        responses.add(future.get(5, TimeUnit.SECONDS));
+      }
+      return responses;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private RecipeListResponse recommend(String filename) {
+    MockMultipartFile image = new MockMultipartFile("image", filename, "image/jpeg", filename.getBytes());
+    return recipeService.recommendRecipes(image, new RecipeRequest(""));
+  }
+
+  /**
+   * 전체 Gemini 호출 수를 검증하고, 그중 2단계(이미지 없는 텍스트 전용) 호출만 반환
+   */
+  private List<Prompt> generationPrompts(int expectedTotalCalls) {
+    ArgumentCaptor<Prompt> prompts = ArgumentCaptor.forClass(Prompt.class);
+    verify(chatModel, times(expectedTotalCalls)).call(prompts.capture());
+
+    return prompts.getAllValues().stream()
+        .filter(prompt -> prompt.getUserMessage().getMedia().isEmpty())
+        .toList();
+  }
+
+  private static ChatResponse chatResponse(String text) {
+    return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+  }
+}